@@ -12,25 +12,128 @@ public class Main {
 
   private static PrintStream out = System.out;
 
+  /**
+   * The match succeeded
+   */
+  public static final int EXIT_SUCCESS = 0;
+  /**
+   * The run completed, failures found
+   */
+  public static final int EXIT_FAILED = 1;
+  /**
+   * The run stopped early at the first failure due to the fail-fast mode
+   */
+  public static final int EXIT_STOPPED_FAIL_FAST = 2;
+  /**
+   * The run stopped early due to the max failures limit reached
+   */
+  public static final int EXIT_STOPPED_MAX_FAILURES = 3;
+  /**
+   * Incorrect command line arguments or project configuration, nothing was matched
+   */
+  public static final int EXIT_USAGE_ERROR = 4;
+  /**
+   * The run crashed with an unexpected exception
+   */
+  public static final int EXIT_ERROR = 5;
+
   public static void main(String[] args) {
+    int exitCode;
+    try {
+      exitCode = doMain(args);
+    } catch (Throwable e) {
+      e.printStackTrace();
+      exitCode = EXIT_ERROR;
+    }
+    if (exitCode != EXIT_SUCCESS) {
+      System.exit(exitCode);
+    }
+  }
+
+  /**
+   * @return the process exit code
+   */
+  protected static int doMain(String[] args) {
 
     if (args != null) {
-      List<String> argList = Arrays.asList(args);
+      List<String> argList = new ArrayList<>(Arrays.asList(args));
+
+      // read the run mode options, common for both invocation forms
+      boolean failFast = false;
+      int maxFailures = 0;
+      for (int i = 0; i < argList.size(); i++) {
+        if (argList.get(i).equals("--fail-fast")) {
+          // stop at the first failure found
+          if (failFast) {
+            out.println("The --fail-fast argument provided more than once");
+            return EXIT_USAGE_ERROR;
+          }
+          failFast = true;
+          argList.remove(i);
+          i--;
+        } else if (argList.get(i).equals("--max-failures")) {
+          // stop as soon as the specified number of failures found
+          if (maxFailures != 0) {
+            out.println("The --max-failures argument provided more than once");
+            return EXIT_USAGE_ERROR;
+          }
+          if (i == argList.size() - 1) {
+            out.println("No value provided for the --max-failures argument");
+            return EXIT_USAGE_ERROR;
+          }
+          String maxFailuresArg = argList.get(i + 1);
+          try {
+            maxFailures = Integer.parseInt(maxFailuresArg);
+          } catch (NumberFormatException e) {
+            maxFailures = -1;
+          }
+          if (maxFailures <= 0) {
+            out.println("Incorrect --max-failures value [" + maxFailuresArg + "]: positive integer expected");
+            return EXIT_USAGE_ERROR;
+          }
+          argList.remove(i + 1);
+          argList.remove(i);
+          i--;
+        }
+      }
+
+      if (failFast && maxFailures != 0) {
+        out.println("The --fail-fast and --max-failures arguments are mutually exclusive");
+        return EXIT_USAGE_ERROR;
+      }
+
+      if (argList.isEmpty()) {
+        out.println("No arguments provided");
+        return EXIT_USAGE_ERROR;
+      }
 
       final Runner runner;
 
-      if (argList.get(0).equals("--maven-project") && argList.size() == 2) {
+      int mavenProjectIndex = argList.indexOf("--maven-project");
+      if (mavenProjectIndex != -1) {
         // absolute path to the maven project (directory with the src folder)
 
-        String mavenProjectArg = argList.get(1);
+        if (mavenProjectIndex == argList.size() - 1) {
+          out.println("No value provided for the --maven-project argument");
+          return EXIT_USAGE_ERROR;
+        }
+        // no other arguments expected along with --maven-project
+        for (int i = 0; i < argList.size(); i++) {
+          if (i != mavenProjectIndex && i != mavenProjectIndex + 1) {
+            out.println("Unrecognized argument [" + argList.get(i) + "]");
+            return EXIT_USAGE_ERROR;
+          }
+        }
+
+        String mavenProjectArg = argList.get(mavenProjectIndex + 1);
 
         try {
-          runner = new Runner(mavenProjectArg);
+          runner = new Runner(mavenProjectArg, failFast, maxFailures);
         } catch (Runner.PrepareException e) {
           for (String message : e.getMessages()) {
             out.println(message);
           }
-          return;
+          return EXIT_USAGE_ERROR;
         }
 
       } else {
@@ -75,16 +178,20 @@ public class Main {
             i++;
             String projectSourceRootDirsArg = argList.get(i);
             projectSourceRootDirPaths.addAll(Arrays.asList(projectSourceRootDirsArg.split("\\s*;\\s*")));
+          } else {
+            out.println("Unrecognized argument [" + argList.get(i) + "]");
+            return EXIT_USAGE_ERROR;
           }
         }
 
         try {
-          runner = new Runner(apiSpecPaths, jaxrsAdapters, projectClasspathClassDirPaths, projectClasspathJarDirPaths, projectClasspathJarPaths, projectSourceRootDirPaths);
+          runner = new Runner(apiSpecPaths, jaxrsAdapters, projectClasspathClassDirPaths, projectClasspathJarDirPaths, projectClasspathJarPaths, projectSourceRootDirPaths,
+                  failFast, maxFailures);
         } catch (Runner.PrepareException e) {
           for (String message : e.getMessages()) {
             out.println(message);
           }
-          return;
+          return EXIT_USAGE_ERROR;
         }
 
       }
@@ -93,9 +200,11 @@ public class Main {
 
       runner.run();
 
+      return runner.getExitCode();
+
     } else {
       out.println("No arguments provided");
-      return;
+      return EXIT_USAGE_ERROR;
     }
   }
 
@@ -108,6 +217,57 @@ public class Main {
     final List<File> projectClasspathJars = new ArrayList<>();
     final List<File> projectSourceRootDirs = new ArrayList<>();
 
+    /**
+     * Whether to stop the run at the first failure found
+     */
+    final boolean failFast;
+    /**
+     * The number of failures to stop the run at, or {@code 0} for no limit
+     */
+    final int maxFailures;
+
+    private int failureCount = 0;
+    private int exitCode = EXIT_SUCCESS;
+
+    public int getExitCode() {
+      return exitCode;
+    }
+
+    /**
+     * Thrown to stop the run early, if any work remains after the failure budget is exhausted
+     */
+    private static class StopException extends Exception {
+      private final int exitCode;
+      public StopException(int exitCode) {
+        this.exitCode = exitCode;
+      }
+    }
+
+    /**
+     * Registers a failure (already reported)
+     */
+    private void onFailure() {
+      failureCount++;
+      exitCode = EXIT_FAILED;
+    }
+
+    /**
+     * Stops the run if the failure budget is exhausted.
+     * Must be invoked before each further unit of work, so that the run is only reported as stopped early
+     * if something was actually skipped
+     */
+    private void checkStop() throws StopException {
+      if (failureCount == 0) {
+        return;
+      }
+      if (failFast) {
+        throw new StopException(EXIT_STOPPED_FAIL_FAST);
+      }
+      if (maxFailures > 0 && failureCount >= maxFailures) {
+        throw new StopException(EXIT_STOPPED_MAX_FAILURES);
+      }
+    }
+
     public static class PrepareException extends Exception {
       private final List<String> messages;
       public PrepareException(List<String> messages) {
@@ -118,7 +278,10 @@ public class Main {
       }
     }
 
-    public Runner(String mavenProjectArg) throws PrepareException {
+    public Runner(String mavenProjectArg, boolean failFast, int maxFailures) throws PrepareException {
+
+      this.failFast = failFast;
+      this.maxFailures = maxFailures;
 
       boolean failed = false;
       List<String> failMessages = new ArrayList<>();
@@ -285,7 +448,12 @@ public class Main {
                   List<String> projectClasspathClassDirPaths,
                   List<String> projectClasspathJarDirPaths,
                   List<String> projectClasspathJarPaths,
-                  List<String> projectSourceRootDirPaths) throws PrepareException {
+                  List<String> projectSourceRootDirPaths,
+                  boolean failFast,
+                  int maxFailures) throws PrepareException {
+
+      this.failFast = failFast;
+      this.maxFailures = maxFailures;
 
       boolean failed = false;
       List<String> failMessages = new ArrayList<>();
@@ -402,8 +570,6 @@ public class Main {
 
       try {
 
-        boolean success = true;
-
         class ApiSpecMethodWithLocation {
           public SpecMethod method;
           // original File
@@ -453,6 +619,8 @@ public class Main {
           }
         }
 
+        MethodMapper mapper = new MethodMapperImpl();
+
         List<JaxrsMethodWithLocation> jaxrsMethods;
         {
           jaxrsMethods = new ArrayList<>();
@@ -471,11 +639,31 @@ public class Main {
           }
 
           for (String classname : jaxrsAdapters) {
+            checkStop();
             List<JaxrsMethod> jaxrsMethodsForResource = ext2.extract(classname);
             for (JaxrsMethod m: jaxrsMethodsForResource) {
               JaxrsMethodWithLocation jaxrsMethod = new JaxrsMethodWithLocation();
               jaxrsMethod.method = m;
               jaxrsMethod.location = classname;
+
+              if (failFast || maxFailures > 0) {
+                // in the stop modes, report the unmapped Jaxrs method right away, not to extract the rest adapters
+                // if the failure budget is exhausted. The straight check below does not depend on such a method
+                boolean mapped = false;
+                for (ApiSpecMethodWithLocation apiSpecMethod : apiSpecMethods) {
+                  if (mapper.map(apiSpecMethod.method, jaxrsMethod.method)) {
+                    mapped = true;
+                    break;
+                  }
+                }
+                if (!mapped) {
+                  System.out.println("FAIL: no ApiSpec method found for the Jaxrs method "
+                          + jaxrsMethod.asString());
+                  onFailure();
+                  continue;
+                }
+              }
+
               jaxrsMethods.add(jaxrsMethod);
             }
           }
@@ -489,12 +677,12 @@ public class Main {
         List<MethodMapping> methodMappings;
         {
           methodMappings = new ArrayList<>();
-          MethodMapper mapper = new MethodMapperImpl();
 
           {
             // straight check
             Iterator<ApiSpecMethodWithLocation> it = apiSpecMethods.iterator();
             while (it.hasNext()) {
+              checkStop();
               ApiSpecMethodWithLocation apiSpecMethod = it.next();
               List<JaxrsMethodWithLocation> mappings = new ArrayList<>();
               for (JaxrsMethodWithLocation jaxrsMethod : jaxrsMethods) {
@@ -505,7 +693,7 @@ public class Main {
               if (mappings.size() == 0) {
                 System.out.println("FAIL: no Jaxrs method found for the ApiSpec method "
                         + apiSpecMethod.asString());
-                success = false;
+                onFailure();
                 it.remove();
 
               } else if (mappings.size() > 1) {
@@ -515,7 +703,7 @@ public class Main {
                   System.out.println("  " + mapping.asString());
                 }
 
-                success = false;
+                onFailure();
                 it.remove();
                 for (JaxrsMethodWithLocation mapping : mappings) {
                   jaxrsMethods.remove((JaxrsMethodWithLocation) mapping);
@@ -531,6 +719,7 @@ public class Main {
             // reverse check
             Iterator<JaxrsMethodWithLocation> it = jaxrsMethods.iterator();
             while (it.hasNext()) {
+              checkStop();
               JaxrsMethodWithLocation jaxrsMethod = it.next();
               List<ApiSpecMethodWithLocation> mappings = new ArrayList<>();
               for (ApiSpecMethodWithLocation apiSpecMethod : apiSpecMethods) {
@@ -542,7 +731,7 @@ public class Main {
                 System.out.println("FAIL: no ApiSpec method found for the Jaxrs method "
                         + jaxrsMethod.asString());
 
-                success = false;
+                onFailure();
                 it.remove();
 
               } else if (mappings.size() > 1) {
@@ -552,7 +741,7 @@ public class Main {
                   System.out.println("  " + mapping.asString());
                 }
 
-                success = false;
+                onFailure();
                 it.remove();
                 for (ApiSpecMethodWithLocation mapping : mappings) {
                   jaxrsMethods.remove((ApiSpecMethodWithLocation) mapping);
@@ -570,6 +759,11 @@ public class Main {
         }
 
 
+        if (!methodMappings.isEmpty()) {
+          // the warnings and the matching below are only done for the mapped methods
+          checkStop();
+        }
+
         // warn about static response body type extraction statuses
         List<JaxrsMethodWithLocation> jaxrsMethodsNoSourceTree = new ArrayList<>();
         for (MethodMapping mm: methodMappings) {
@@ -669,19 +863,27 @@ public class Main {
         // match methods
         MethodMatcher matcher = new MethodMatcherImpl();
         for (MethodMapping mm: methodMappings) {
+          checkStop();
           if (!matcher.match(mm.apiSpecMethod.method, mm.jaxrsMethod.method)) {
             System.out.println("FAIL: Method match failed:");
             System.out.println("  " + mm.jaxrsMethod.asString());
             System.out.println("  <=> " + mm.apiSpecMethod.asString());
 
-            success = false;
+            onFailure();
           }
         }
 
-        if (success) {
+        if (failureCount == 0) {
           System.out.println("Match succeeded");
         }
 
+      } catch (StopException e) {
+        exitCode = e.exitCode;
+        if (e.exitCode == EXIT_STOPPED_FAIL_FAST) {
+          System.out.println("Stopped at the first failure (fail-fast mode)");
+        } else {
+          System.out.println("Stopped after " + failureCount + " failures (max failures limit reached)");
+        }
       } catch (Throwable e) { throw new RuntimeException(e); }
     }
   }